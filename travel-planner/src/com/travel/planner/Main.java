@@ -1,14 +1,37 @@
 package com.travel.planner;
 
 import com.travel.planner.gui.TravelPlannerGUI;
+import com.travel.planner.service.RouteImporter;
 import com.travel.planner.util.DBManager;
 
+import java.nio.file.Path;
+
 public class Main {
     public static void main(String[] args) {
 
         DBManager.initializeDB();
 
+        if (args.length > 0 && args[0].equals("--import")) {
+            importRoutes(args);
+            return;
+        }
+
         TravelPlannerGUI.launch(TravelPlannerGUI.class, args);
 
     }
+
+    private static void importRoutes(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: Main --import <routes.csv>");
+            System.exit(1);
+        }
+
+        try {
+            new RouteImporter().importFile(Path.of(args[1]));
+        } catch (Exception e) {
+            System.err.println("Import failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.travel.planner.gui;
 import com.travel.planner.model.Edge;
 import com.travel.planner.model.PathResult;
 import com.travel.planner.service.Graph;
+import com.travel.planner.service.RouteImporter;
 import javafx.application.Application;
 import javafx.geometry.Insets;
 import javafx.geometry.Point2D;
@@ -16,8 +17,13 @@ import javafx.scene.shape.Line;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
+import javafx.stage.FileChooser;
 import javafx.stage.Stage;
+import javafx.stage.Window;
 
+import java.io.File;
+import java.io.IOException;
+import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -67,6 +73,7 @@ public class TravelPlannerGUI extends Application {
         Button addRoadBtn = new Button("Add Road Route");
         Button addTrainBtn = new Button("Add Train Route");
         Button addAirplaneBtn = new Button("Add Airplane Route");
+        Button importBtn = new Button("Import Routes");
         Button showGraphBtn = new Button("Show Graph");
 
         String buttonStyle = "-fx-padding: 10 20; -fx-font-size: 14;";
@@ -74,15 +81,18 @@ public class TravelPlannerGUI extends Application {
         addRoadBtn.setStyle(buttonStyle);
         addTrainBtn.setStyle(buttonStyle);
         addAirplaneBtn.setStyle(buttonStyle);
+        importBtn.setStyle(buttonStyle);
         showGraphBtn.setStyle(buttonStyle + "-fx-background-color: #9C27B0; -fx-text-fill: white;");
 
         searchButton.setOnAction(e -> showAllPaths());
         addRoadBtn.setOnAction(e -> showAddRouteDialog("road"));
         addTrainBtn.setOnAction(e -> showAddRouteDialog("train"));
         addAirplaneBtn.setOnAction(e -> showAddRouteDialog("airplane"));
+        importBtn.setOnAction(e -> importRoutes(importBtn.getScene().getWindow()));
         showGraphBtn.setOnAction(e -> showGraph());
 
-        HBox buttonBox = new HBox(15, searchButton, addRoadBtn, addTrainBtn, addAirplaneBtn, showGraphBtn);
+        HBox buttonBox = new HBox(15, searchButton, addRoadBtn, addTrainBtn, addAirplaneBtn, importBtn,
+                showGraphBtn);
         buttonBox.setPadding(new Insets(15, 0, 15, 0));
 
         return buttonBox;
@@ -285,6 +295,29 @@ public class TravelPlannerGUI extends Application {
         dialog.showAndWait();
     }
 
+    private void importRoutes(Window owner) {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Import Routes");
+        chooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("CSV files", "*.csv", "*.txt"),
+                new FileChooser.ExtensionFilter("All files", "*.*"));
+
+        File file = chooser.showOpenDialog(owner);
+        if (file == null) {
+            return;
+        }
+
+        RouteImporter importer = new RouteImporter(graph);
+        try {
+            importer.importFile(file.toPath());
+            String summary = String.format("%d routes imported, %d duplicates skipped, %d invalid rows rejected",
+                    importer.getImported(), importer.getDuplicates(), importer.getRejected());
+            showAlert("Import Complete", summary, Alert.AlertType.INFORMATION);
+        } catch (IOException | SQLException ex) {
+            showAlert("Import Error", "Failed to import routes: " + ex.getMessage(), Alert.AlertType.ERROR);
+        }
+    }
+
     private void showAllPaths() {
         resultList.getItems().clear();
         String start = sourceField.getText().trim();
@@ -0,0 +1,325 @@
+package com.travel.planner.service;
+
+import com.travel.planner.model.Edge;
+import com.travel.planner.util.DBManager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.util.*;
+
+public class RouteImporter {
+    private static final int BATCH_SIZE = 5000;
+    private static final int MAX_NAME_LENGTH = 100;
+    private static final long MAX_DECIMAL_CENTS = 9_999_999_999L;
+    private static final Set<String> MODES = Set.of("road", "train", "airplane");
+
+    private static final Map<String, List<String>> COLUMN_ALIASES = Map.of(
+            "source", List.of("source", "from", "origin", "from_stop_name", "origin_stop_name"),
+            "destination", List.of("destination", "to", "dest", "to_stop_name", "destination_stop_name"),
+            "mode", List.of("mode", "route_type"),
+            "cost", List.of("cost", "fare", "price"),
+            "distance", List.of("distance", "distance_km"),
+            "time", List.of("time", "duration", "hours"));
+
+    private final Graph graph;
+
+    private int imported;
+    private int duplicates;
+    private int rejected;
+
+    public RouteImporter() {
+        this(null);
+    }
+
+    // Routes inserted into the database are also added to the given graph
+    public RouteImporter(Graph graph) {
+        this.graph = graph;
+    }
+
+    public int importFile(Path file) throws IOException, SQLException {
+        String sql = "INSERT INTO routes (source, destination, mode, cost, distance, time) VALUES (?, ?, ?, ?, ?, ?)";
+
+        imported = 0;
+        duplicates = 0;
+        rejected = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+                Connection conn = DBManager.getBulkConnection()) {
+
+            String header = reader.readLine();
+            if (header == null) {
+                System.out.println("Import file is empty: " + file);
+                return 0;
+            }
+            Map<String, Integer> columns = resolveColumns(splitCsvLine(stripBom(header)));
+
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                Map<String, Edge> pending = new LinkedHashMap<>();
+                int lineNumber = 1;
+                String line;
+
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+
+                    Edge route = parseRow(splitCsvLine(line), columns, lineNumber);
+                    if (route == null) {
+                        continue;
+                    }
+
+                    if (pending.putIfAbsent(routeKey(route.source, route.destination, route.mode), route) != null) {
+                        duplicates++;
+                        continue;
+                    }
+
+                    if (pending.size() == BATCH_SIZE) {
+                        insertBatch(conn, pstmt, pending);
+                        System.out.println("Imported " + imported + " routes...");
+                    }
+                }
+
+                insertBatch(conn, pstmt, pending);
+            } catch (SQLException e) {
+                try {
+                    conn.rollback();
+                } catch (SQLException rollbackError) {
+                    e.addSuppressed(rollbackError);
+                }
+                throw e;
+            }
+        }
+
+        System.out.printf("Import finished: %d imported, %d duplicates skipped, %d invalid rows rejected%n",
+                imported, duplicates, rejected);
+        return imported;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    private void insertBatch(Connection conn, PreparedStatement pstmt, Map<String, Edge> pending)
+            throws SQLException {
+
+        removeExistingRoutes(conn, pending);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        for (Edge route : pending.values()) {
+            pstmt.setString(1, route.source);
+            pstmt.setString(2, route.destination);
+            pstmt.setString(3, route.mode);
+            pstmt.setDouble(4, route.cost);
+            pstmt.setDouble(5, route.distance);
+            pstmt.setDouble(6, route.time);
+            pstmt.addBatch();
+        }
+        pstmt.executeBatch();
+        conn.commit();
+
+        if (graph != null) {
+            for (Edge route : pending.values()) {
+                graph.addEdge(route.source, route.destination, route.mode, route.cost, route.distance, route.time,
+                        false);
+            }
+        }
+        imported += pending.size();
+        pending.clear();
+    }
+
+    // Looks the batch up through the (source, destination, mode) index. Earlier batches are already
+    // committed, so this also catches duplicates that are further apart in the file than one batch.
+    private void removeExistingRoutes(Connection conn, Map<String, Edge> pending) throws SQLException {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        String query = "SELECT source, destination, mode FROM routes WHERE (source, destination, mode) IN ("
+                + String.join(", ", Collections.nCopies(pending.size(), "(?, ?, ?)")) + ")";
+
+        try (PreparedStatement pstmt = conn.prepareStatement(query)) {
+            int index = 1;
+            for (Edge route : pending.values()) {
+                pstmt.setString(index++, route.source);
+                pstmt.setString(index++, route.destination);
+                pstmt.setString(index++, route.mode);
+            }
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    String key = routeKey(rs.getString("source"), rs.getString("destination"), rs.getString("mode"));
+                    if (pending.remove(key) != null) {
+                        duplicates++;
+                    }
+                }
+            }
+        }
+    }
+
+    private Edge parseRow(List<String> fields, Map<String, Integer> columns, int lineNumber) {
+        String source = field(fields, columns, "source");
+        String dest = field(fields, columns, "destination");
+        String mode = normalizeMode(field(fields, columns, "mode"));
+
+        double cost;
+        double distance;
+        double time;
+        try {
+            cost = parseNumber(field(fields, columns, "cost"), 0);
+            distance = parseNumber(field(fields, columns, "distance"), 0);
+            time = parseNumber(field(fields, columns, "time"), -1);
+        } catch (NumberFormatException e) {
+            return reject(lineNumber, "invalid number");
+        }
+
+        if (source.isEmpty() || dest.isEmpty()) {
+            return reject(lineNumber, "missing source or destination");
+        }
+        if (source.equals(dest)) {
+            return reject(lineNumber, "source and destination are the same");
+        }
+        if (mode == null) {
+            return reject(lineNumber, "unknown mode");
+        }
+        if (tooLong(source) || tooLong(dest)) {
+            return reject(lineNumber, "source or destination longer than " + MAX_NAME_LENGTH + " characters");
+        }
+        if (cost < 0 || distance < 0 || time < 0) {
+            return reject(lineNumber, "missing or negative cost, distance or time");
+        }
+        if (!fitsDecimal(cost) || !fitsDecimal(distance) || !fitsDecimal(time)) {
+            return reject(lineNumber, "cost, distance or time is not a finite value in range");
+        }
+
+        return new Edge(source, dest, mode, cost, distance, time);
+    }
+
+    private Edge reject(int lineNumber, String reason) {
+        rejected++;
+        System.err.println("Skipping line " + lineNumber + ": " + reason);
+        return null;
+    }
+
+    private static Map<String, Integer> resolveColumns(List<String> header) throws IOException {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim().toLowerCase();
+            for (Map.Entry<String, List<String>> entry : COLUMN_ALIASES.entrySet()) {
+                if (entry.getValue().contains(name)) {
+                    columns.putIfAbsent(entry.getKey(), i);
+                }
+            }
+        }
+
+        for (String required : List.of("source", "destination", "mode", "time")) {
+            if (!columns.containsKey(required)) {
+                throw new IOException("Import file has no '" + required + "' column");
+            }
+        }
+        return columns;
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return "";
+        }
+        return fields.get(index).trim();
+    }
+
+    private static boolean tooLong(String name) {
+        return name.codePointCount(0, name.length()) > MAX_NAME_LENGTH;
+    }
+
+    // Matches the routes table's DECIMAL(10,2) columns after rounding to cents
+    private static boolean fitsDecimal(double value) {
+        return Double.isFinite(value) && Math.round(value * 100) <= MAX_DECIMAL_CENTS;
+    }
+
+    private static double parseNumber(String value, double defaultValue) {
+        return value.isEmpty() ? defaultValue : Double.parseDouble(value);
+    }
+
+    // Accepts the planner's own mode names as well as GTFS route_type codes
+    private static String normalizeMode(String value) {
+        String mode = value.toLowerCase();
+        if (MODES.contains(mode)) {
+            return mode;
+        }
+
+        int routeType;
+        try {
+            routeType = Integer.parseInt(mode);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        if (routeType == 3 || routeType == 11 || (routeType >= 200 && routeType < 300)
+                || (routeType >= 700 && routeType < 800)) {
+            return "road";
+        }
+        if (routeType == 0 || routeType == 1 || routeType == 2 || routeType == 12
+                || (routeType >= 100 && routeType < 200) || (routeType >= 400 && routeType < 500)
+                || (routeType >= 900 && routeType < 1000)) {
+            return "train";
+        }
+        if (routeType >= 1100 && routeType < 1200) {
+            return "airplane";
+        }
+        return null;
+    }
+
+    // Names compare case-insensitively, like the default collation of the routes table
+    private static String routeKey(String source, String dest, String mode) {
+        return source.toLowerCase(Locale.ROOT) + '\u0000' + dest.toLowerCase(Locale.ROOT) + '\u0000'
+                + mode.toLowerCase(Locale.ROOT);
+    }
+
+    private static String stripBom(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+
+    private static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
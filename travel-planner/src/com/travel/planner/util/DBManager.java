@@ -6,6 +6,8 @@ public class DBManager {
     private static final String DB_URL = "jdbc:mysql://localhost:3306/travel_planner?allowPublicKeyRetrieval=true&useSSL=false";
     private static final String USER = "root";
     private static final String PASS = "1234567890";
+    private static final String BULK_OPTIONS = "&rewriteBatchedStatements=true";
+    private static final String ROUTE_INDEX = "idx_routes_source_destination_mode";
 
     static {
         try {
@@ -39,16 +41,43 @@ public class DBManager {
                     conn.commit();
                 }
             }
+
+            ensureRouteIndex(conn);
         } catch (SQLException e) {
             System.err.println("DB Error: " + e.getMessage());
             e.printStackTrace();
         }
     }
 
+    private static void ensureRouteIndex(Connection conn) throws SQLException {
+        try (ResultSet indexes = conn.getMetaData().getIndexInfo(null, null, "routes", false, false)) {
+            while (indexes.next()) {
+                if (ROUTE_INDEX.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
+                    return;
+                }
+            }
+        }
+
+        // Used by RouteImporter to look up existing routes for each batch
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE INDEX " + ROUTE_INDEX + " ON routes (source, destination, mode)");
+            conn.commit();
+        }
+    }
+
     public static Connection getConnection() throws SQLException {
+        return getConnection(DB_URL);
+    }
+
+    // The driver rewrites batched inserts into multi-row INSERT statements
+    public static Connection getBulkConnection() throws SQLException {
+        return getConnection(DB_URL + BULK_OPTIONS);
+    }
+
+    private static Connection getConnection(String url) throws SQLException {
         System.out.println("Connecting to MySQL...");
         try {
-            Connection conn = DriverManager.getConnection(DB_URL, USER, PASS);
+            Connection conn = DriverManager.getConnection(url, USER, PASS);
             conn.setAutoCommit(false);
             System.out.println("Connected successfully!");
             return conn;